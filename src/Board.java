@@ -1,5 +1,6 @@
-import java.awt.Point;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -12,6 +13,7 @@ public class Board {
     private static final int[] SHIP_SIZES = {2, 3, 3, 4, 5};
 
     private List<Ship> ships;
+    private Ship[] fleet;     // One reusable Ship per entry in SHIP_SIZES
     private boolean[][] firedAt;  // Track where player has fired
     private int totalHits;
     private int totalMisses;
@@ -19,6 +21,10 @@ public class Board {
     private int strikeCounter;
     private boolean gameWon;
     private boolean gameLost;
+    private int[] sinkShots;  // Shot number on which each ship sank, in sinking order
+    private int[] sinkFleetIndex;  // Index into SHIP_SIZES of each sunk ship, in sinking order
+    private int shipsSunk;
+    private int[] hitCells;   // Cell (row * BOARD_SIZE + col) of each hit, in firing order
     private Random random;
 
     public enum FireResult {
@@ -29,7 +35,11 @@ public class Board {
      * Constructor - creates empty board
      */
     public Board() {
-        ships = new ArrayList<>();
+        ships = new ArrayList<>(SHIP_SIZES.length);
+        fleet = new Ship[SHIP_SIZES.length];
+        for (int i = 0; i < SHIP_SIZES.length; i++) {
+            fleet[i] = new Ship(SHIP_SIZES[i], 0, 0, true);
+        }
         firedAt = new boolean[BOARD_SIZE][BOARD_SIZE];
         totalHits = 0;
         totalMisses = 0;
@@ -37,6 +47,14 @@ public class Board {
         strikeCounter = 0;
         gameWon = false;
         gameLost = false;
+        sinkShots = new int[SHIP_SIZES.length];
+        sinkFleetIndex = new int[SHIP_SIZES.length];
+        shipsSunk = 0;
+        int shipCells = 0;
+        for (int size : SHIP_SIZES) {
+            shipCells += size;
+        }
+        hitCells = new int[shipCells];
         random = new Random();
         placeShipsRandomly();
     }
@@ -65,10 +83,13 @@ public class Board {
         Ship hitShip = getShipAt(row, col);
         if (hitShip != null) {
             hitShip.markHit(row, col);
-            totalHits++;
+            hitCells[totalHits++] = row * BOARD_SIZE + col;
             missCounter = 0; // Reset miss counter on hit
 
             if (hitShip.isSunk()) {
+                sinkShots[shipsSunk] = totalHits + totalMisses;
+                sinkFleetIndex[shipsSunk] = fleetIndexOf(hitShip);
+                shipsSunk++;
                 checkGameWon();
                 return FireResult.SUNK;
             }
@@ -111,17 +132,21 @@ public class Board {
     }
 
     /**
-     * Reset the board for a new game
+     * Reset the board for a new game.
+     * Reuses the fired grid and fleet in place, so no objects are allocated.
      */
     public void reset() {
         ships.clear();
-        firedAt = new boolean[BOARD_SIZE][BOARD_SIZE];
+        for (boolean[] row : firedAt) {
+            Arrays.fill(row, false);
+        }
         totalHits = 0;
         totalMisses = 0;
         missCounter = 0;
         strikeCounter = 0;
         gameWon = false;
         gameLost = false;
+        shipsSunk = 0;
         placeShipsRandomly();
     }
 
@@ -131,8 +156,8 @@ public class Board {
     public void placeShipsRandomly() {
         ships.clear();
 
-        for (int shipSize : SHIP_SIZES) {
-            Ship ship;
+        for (Ship ship : fleet) {
+            int shipSize = ship.getSize();
             int attempts = 0;
             do {
                 boolean horizontal = random.nextBoolean();
@@ -142,7 +167,7 @@ public class Board {
                 int row = random.nextInt(maxRow);
                 int col = random.nextInt(maxCol);
 
-                ship = new Ship(shipSize, row, col, horizontal);
+                ship.reposition(row, col, horizontal);
                 attempts++;
             } while (!isValidPlacement(ship) && attempts < 100);
 
@@ -159,16 +184,15 @@ public class Board {
      */
     private boolean isValidPlacement(Ship ship) {
         // Check bounds
-        List<Point> coordinates = ship.getOccupiedCoordinates();
-        for (Point p : coordinates) {
-            if (p.x < 0 || p.x >= BOARD_SIZE || p.y < 0 || p.y >= BOARD_SIZE) {
-                return false;
-            }
+        if (ship.getStartRow() < 0 || ship.getStartCol() < 0
+                || ship.getEndRow() >= BOARD_SIZE || ship.getEndCol() >= BOARD_SIZE) {
+            return false;
         }
 
         // Check overlaps with existing ships
-        for (Ship existingShip : ships) {
-            if (ship.overlaps(existingShip)) {
+        // (indexed loops here and below avoid an Iterator before the JIT can elide it)
+        for (int i = 0; i < ships.size(); i++) {
+            if (ship.overlaps(ships.get(i))) {
                 return false;
             }
         }
@@ -183,7 +207,8 @@ public class Board {
      * @return Ship at coordinates, or null if none
      */
     private Ship getShipAt(int row, int col) {
-        for (Ship ship : ships) {
+        for (int i = 0; i < ships.size(); i++) {
+            Ship ship = ships.get(i);
             if (ship.isHit(row, col)) {
                 return ship;
             }
@@ -191,12 +216,26 @@ public class Board {
         return null;
     }
 
+    /**
+     * Find which entry of the fleet a ship is
+     * @param ship One of this board's ships
+     * @return Index into the fleet, matching getFleetShipSize
+     */
+    private int fleetIndexOf(Ship ship) {
+        for (int i = 0; i < fleet.length; i++) {
+            if (fleet[i] == ship) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Check if all ships are sunk
      */
     private void checkGameWon() {
-        for (Ship ship : ships) {
-            if (!ship.isSunk()) {
+        for (int i = 0; i < ships.size(); i++) {
+            if (!ships.get(i).isSunk()) {
                 gameWon = false;
                 return;
             }
@@ -237,7 +276,109 @@ public class Board {
         return firedAt[row][col];
     }
 
+    /**
+     * Check if a shot was fired at the given coordinates and hit a ship
+     * @param row Row coordinate
+     * @param col Column coordinate
+     * @return True if the cell was fired at and holds a ship
+     */
+    public boolean isHitAt(int row, int col) {
+        return firedAt[row][col] && getShipAt(row, col) != null;
+    }
+
+    /**
+     * Check if a cell belongs to a ship that has been sunk.
+     * Sinks are announced to the player, so this reveals nothing hidden.
+     * @param row Row coordinate
+     * @param col Column coordinate
+     * @return True if the cell was hit and its ship is sunk
+     */
+    public boolean isSunkAt(int row, int col) {
+        if (!firedAt[row][col]) {
+            return false;
+        }
+        Ship ship = getShipAt(row, col);
+        return ship != null && ship.isSunk();
+    }
+
+    /**
+     * Get the shot number (1-based) on which each sunk ship went down
+     * @return Shot numbers in the order the ships were sunk
+     */
+    public int[] getSinkShots() {
+        return Arrays.copyOf(sinkShots, shipsSunk);
+    }
+
+    public int getShipsSunk() {
+        return shipsSunk;
+    }
+
+    /**
+     * Get the shot number (1-based) on which one sunk ship went down, without copying
+     * @param index Sinking order, between 0 and getShipsSunk() - 1
+     * @return Shot number of that sink
+     */
+    public int getSinkShot(int index) {
+        return sinkShots[index];
+    }
+
+    /**
+     * Get which ship of the fleet went down in one sink
+     * @param index Sinking order, between 0 and getShipsSunk() - 1
+     * @return Fleet index of the sunk ship, see getFleetShipSize
+     */
+    public int getSinkFleetIndex(int index) {
+        return sinkFleetIndex[index];
+    }
+
+    /**
+     * Get the cell of one hit, without scanning the grid
+     * @param index Hit order, between 0 and getTotalHits() - 1
+     * @return Cell index (row * BOARD_SIZE + col)
+     */
+    public int getHitCell(int index) {
+        return hitCells[index];
+    }
+
+    public static int getFleetCount() {
+        return SHIP_SIZES.length;
+    }
+
+    /**
+     * Get the size of one ship of the fleet every board places
+     * @param index Fleet index, between 0 and getFleetCount() - 1
+     * @return Ship size
+     */
+    public static int getFleetShipSize(int index) {
+        return SHIP_SIZES[index];
+    }
+
+    /**
+     * Get a read-only view of the ships on the board.
+     * The Ship objects are live and owned by the board: they are reused and
+     * moved by reset() and placeShipsRandomly(), and copying the list would
+     * not protect callers from that. Hot paths should use getShipCount() and
+     * getShip(int) instead.
+     * @return Unmodifiable view of the current ships
+     */
     public List<Ship> getShips() {
-        return new ArrayList<>(ships); // Return copy for safety
+        return Collections.unmodifiableList(ships);
+    }
+
+    /**
+     * Get the number of ships on the board, without copying the list
+     * @return Number of placed ships
+     */
+    public int getShipCount() {
+        return ships.size();
+    }
+
+    /**
+     * Get one ship by index, without copying the list
+     * @param index Index between 0 and getShipCount() - 1
+     * @return Ship at that index
+     */
+    public Ship getShip(int index) {
+        return ships.get(index);
     }
 }
\ No newline at end of file
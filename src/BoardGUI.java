@@ -166,8 +166,11 @@ public class BoardGUI extends JFrame {
      */
     public void showGameOverDialog() {
         int totalShots = game.getBoard().getTotalHits() + game.getBoard().getTotalMisses();
-        String message = String.format("Congratulations! You sunk all ships!\nTotal shots: %d\nHits: %d\nMisses: %d",
-                totalShots, game.getBoard().getTotalHits(), game.getBoard().getTotalMisses());
+        GameStatistics stats = game.getStatistics();
+        String message = String.format("Congratulations! You sunk all ships!\nTotal shots: %d\nHits: %d\nMisses: %d"
+                        + "\n\nGames won: %d of %d\nAverage shots per game: %.1f",
+                totalShots, game.getBoard().getTotalHits(), game.getBoard().getTotalMisses(),
+                stats.getGamesWon(), stats.getGamesPlayed(), stats.getShots().getMean());
 
         int choice = JOptionPane.showConfirmDialog(this, message + "\n\nPlay again?",
                 "Game Over", JOptionPane.YES_NO_OPTION);
@@ -0,0 +1,97 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of reusable Board instances.
+ * Acquired boards are reset in place, so starting a game from a warm pool
+ * allocates nothing. Safe to share between threads.
+ */
+public class BoardPool {
+    private final Board[] freeBoards;
+    private int freeCount;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+
+    /**
+     * Constructor for BoardPool
+     * @param capacity Maximum number of idle boards kept for reuse
+     */
+    public BoardPool(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Pool capacity must be positive: " + capacity);
+        }
+        freeBoards = new Board[capacity];
+        freeCount = 0;
+    }
+
+    /**
+     * Get a board ready for a new game, reusing an idle one when available
+     * @return Board with freshly placed ships
+     */
+    public Board acquire() {
+        Board board = null;
+        synchronized (this) {
+            if (freeCount > 0) {
+                board = freeBoards[--freeCount];
+                freeBoards[freeCount] = null;
+            }
+        }
+
+        if (board == null) {
+            misses.increment();
+            return new Board();
+        }
+        hits.increment();
+        board.reset();
+        return board;
+    }
+
+    /**
+     * Return a board to the pool; it must not be used by the caller afterwards
+     * @param board Board to recycle
+     */
+    public void release(Board board) {
+        if (board == null) {
+            return;
+        }
+        synchronized (this) {
+            if (freeCount < freeBoards.length) {
+                freeBoards[freeCount++] = board;
+                return;
+            }
+        }
+        discards.increment();
+    }
+
+    // Getter methods
+    public synchronized int getIdleCount() {
+        return freeCount;
+    }
+
+    public int getCapacity() {
+        return freeBoards.length;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getDiscards() {
+        return discards.sum();
+    }
+
+    /**
+     * Fraction of acquires served from the pool
+     * @return Hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+}
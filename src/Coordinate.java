@@ -0,0 +1,47 @@
+/**
+ * Immutable row/column position on the game board.
+ */
+public final class Coordinate {
+    private final int row;
+    private final int col;
+
+    /**
+     * Constructor for Coordinate
+     * @param row Row position
+     * @param col Column position
+     */
+    public Coordinate(int row, int col) {
+        this.row = row;
+        this.col = col;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Coordinate)) {
+            return false;
+        }
+        Coordinate that = (Coordinate) other;
+        return row == that.row && col == that.col;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * row + col;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + row + "," + col + ")";
+    }
+}
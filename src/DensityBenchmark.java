@@ -0,0 +1,144 @@
+import java.util.Random;
+
+/**
+ * Benchmark of the density kernel: scalar loops against the Vector API.
+ * Runs a full density pass (every ship length plus the fired-cell mask)
+ * over random boards of each size and checks both kernels agree.
+ * Each kernel is warmed up until its timings settle, outside the measured
+ * window, so short --millis runs are still meaningful.
+ *
+ * Usage: java [--add-modules jdk.incubator.vector] DensityBenchmark [--sizes 10,32,100,512] [--millis 1000]
+ */
+public class DensityBenchmark {
+    private static final int[] SHIP_LENGTHS = {2, 3, 3, 4, 5};
+    private static final long WARMUP_MIN_MILLIS = 1000;
+    private static final long WARMUP_MAX_MILLIS = 10_000;
+    private static final long WARMUP_ROUND_NANOS = 100_000_000L;
+
+    /**
+     * Time repeated density passes with one kernel, after warming it up
+     * @param kernel Kernel to time
+     * @param open Open-cell mask
+     * @param size Board width and height
+     * @param out Scratch output array
+     * @param millis Length of the measured window
+     * @return Average nanoseconds per pass
+     */
+    static double timePasses(DensityKernel kernel, int[] open, int size, int[] out, long millis) {
+        warmUp(kernel, open, size, out);
+        return measure(kernel, open, size, out, millis * 1_000_000L);
+    }
+
+    /**
+     * Run the kernel until the JIT has compiled it and timings have settled:
+     * at least WARMUP_MIN_MILLIS, then until two consecutive rounds agree
+     * within 5%, giving up after WARMUP_MAX_MILLIS
+     */
+    static void warmUp(DensityKernel kernel, int[] open, int size, int[] out) {
+        long start = System.nanoTime();
+        long minEnd = start + WARMUP_MIN_MILLIS * 1_000_000L;
+        long maxEnd = start + WARMUP_MAX_MILLIS * 1_000_000L;
+        double previous = measure(kernel, open, size, out, WARMUP_ROUND_NANOS);
+        while (System.nanoTime() < maxEnd) {
+            double current = measure(kernel, open, size, out, WARMUP_ROUND_NANOS);
+            boolean settled = Math.abs(current - previous) <= 0.05 * previous;
+            if (settled && System.nanoTime() >= minEnd) {
+                return;
+            }
+            previous = current;
+        }
+    }
+
+    /**
+     * Average time of density passes over a fixed window
+     * @return Average nanoseconds per pass
+     */
+    static double measure(DensityKernel kernel, int[] open, int size, int[] out, long windowNanos) {
+        long passes = 0;
+        long start = System.nanoTime();
+        long end = start + windowNanos;
+        long now;
+        do {
+            for (int i = 0; i < 16; i++) {
+                runPass(kernel, open, size, out);
+            }
+            passes += 16;
+            now = System.nanoTime();
+        } while (now < end);
+        return (double) (now - start) / passes;
+    }
+
+    /**
+     * One density pass over a board
+     */
+    static void runPass(DensityKernel kernel, int[] open, int size, int[] out) {
+        java.util.Arrays.fill(out, 0);
+        for (int length : SHIP_LENGTHS) {
+            kernel.addPlacements(open, size, length, out);
+        }
+        kernel.mask(out, open);
+    }
+
+    /**
+     * Main method - runs the benchmark
+     * @param args Command line options, see class documentation
+     */
+    public static void main(String[] args) {
+        int[] sizes = {Board.BOARD_SIZE, 32, 100, 512};
+        long millis = 1000;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = (i + 1 < args.length) ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--sizes":
+                    String[] parts = value.split(",");
+                    sizes = new int[parts.length];
+                    for (int p = 0; p < parts.length; p++) {
+                        sizes[p] = Integer.parseInt(parts[p].trim());
+                    }
+                    i++;
+                    break;
+                case "--millis": millis = Long.parseLong(value); i++; break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.err.println("Usage: java DensityBenchmark [--sizes 10,32,100,512] [--millis 1000]");
+                    System.exit(2);
+            }
+        }
+
+        DensityKernel scalar = new ScalarDensityKernel();
+        DensityKernel best = DensityKernel.best();
+        boolean hasVector = !(best instanceof ScalarDensityKernel);
+        if (!hasVector) {
+            System.out.println("# Vector kernel unavailable (compile vector/ and run with"
+                    + " --add-modules jdk.incubator.vector); timing scalar only");
+        }
+
+        System.out.printf("# java=%s kernel=%s%n", System.getProperty("java.version"), best.getClass().getSimpleName());
+        System.out.printf("%-6s %14s %14s %8s%n", "size", "scalar_ns", "vector_ns", "speedup");
+        Random random = new Random(42);
+        for (int size : sizes) {
+            int[] open = new int[size * size];
+            for (int i = 0; i < open.length; i++) {
+                open[i] = random.nextInt(10) < 7 ? 1 : 0;
+            }
+            int[] scalarOut = new int[open.length];
+            int[] vectorOut = new int[open.length];
+
+            double scalarNanos = timePasses(scalar, open, size, scalarOut, millis);
+            if (!hasVector) {
+                System.out.printf("%-6d %14.0f %14s %8s%n", size, scalarNanos, "-", "-");
+                continue;
+            }
+
+            double vectorNanos = timePasses(best, open, size, vectorOut, millis);
+            runPass(scalar, open, size, scalarOut);
+            runPass(best, open, size, vectorOut);
+            if (!java.util.Arrays.equals(scalarOut, vectorOut)) {
+                System.out.println("FAIL: kernels disagree at size " + size);
+                System.exit(1);
+            }
+            System.out.printf("%-6d %14.0f %14.0f %8.2f%n", size, scalarNanos, vectorNanos, scalarNanos / vectorNanos);
+        }
+    }
+}
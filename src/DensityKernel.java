@@ -0,0 +1,47 @@
+/**
+ * Integer array kernel behind density and coverage maps.
+ * Grids are square and stored row-major in flat int arrays, with masks
+ * holding 1 for "open" and 0 for "blocked".
+ */
+public interface DensityKernel {
+    /**
+     * For every horizontal and vertical window of the given length whose cells
+     * are all open, add 1 to each cell the window covers
+     * @param open Mask of cells a ship may occupy
+     * @param size Width and height of the grid
+     * @param length Ship length
+     * @param out Per-cell counts to add to
+     */
+    void addPlacements(int[] open, int size, int length, int[] out);
+
+    /**
+     * Subtract one array from another in place: values[i] -= amounts[i]
+     * @param values Array to subtract from
+     * @param amounts Amounts to subtract
+     */
+    void subtract(int[] values, int[] amounts);
+
+    /**
+     * Zero every cell whose mask is 0: values[i] *= keep[i]
+     * @param values Array to mask
+     * @param keep Mask of cells to keep
+     */
+    void mask(int[] values, int[] keep);
+
+    /**
+     * Get the fastest kernel available in this JVM.
+     * Uses VectorDensityKernel when it is on the class path and the
+     * jdk.incubator.vector module is loaded, and the scalar kernel otherwise.
+     * @return Kernel to use
+     */
+    static DensityKernel best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (DensityKernel) Class.forName("VectorDensityKernel").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Vector kernel not compiled in; fall back to scalar
+            }
+        }
+        return new ScalarDensityKernel();
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Per-cell density and coverage maps for choosing the next shot.
+ * Density counts how many placements of the remaining ships fit over each
+ * unfired cell. Coverage counts only placements that pass through a hit on
+ * a ship that is still afloat, so it is non-zero only while hunting one down.
+ * All storage is allocated once and reused on every update.
+ */
+public class DensityMap {
+    private static final int CELL_COUNT = Board.BOARD_SIZE * Board.BOARD_SIZE;
+
+    private final DensityKernel kernel;
+    private final int[] unfired = new int[CELL_COUNT];
+    private final int[] openOrHit = new int[CELL_COUNT];
+    private final int[] density = new int[CELL_COUNT];
+    private final int[] coverage = new int[CELL_COUNT];
+
+    /**
+     * Constructor - uses the fastest available kernel
+     */
+    public DensityMap() {
+        this(DensityKernel.best());
+    }
+
+    /**
+     * Constructor for DensityMap
+     * @param kernel Kernel that does the array work
+     */
+    public DensityMap(DensityKernel kernel) {
+        this.kernel = kernel;
+    }
+
+    /**
+     * Recompute both maps from what a player can see of a board: which cells
+     * were fired at, which of those were hits, and which ships have been
+     * announced sunk. Hidden ship positions are never read.
+     * @param board Board to analyze
+     */
+    public void update(Board board) {
+        for (int row = 0; row < Board.BOARD_SIZE; row++) {
+            for (int col = 0; col < Board.BOARD_SIZE; col++) {
+                int cell = row * Board.BOARD_SIZE + col;
+                unfired[cell] = board.hasFiredAt(row, col) ? 0 : 1;
+                // Hits not yet accounted for by a sink may be part of a remaining placement
+                boolean openHit = board.isHitAt(row, col) && !board.isSunkAt(row, col);
+                openOrHit[cell] = (unfired[cell] == 1 || openHit) ? 1 : 0;
+                density[cell] = 0;
+                coverage[cell] = 0;
+            }
+        }
+
+        for (int s = 0; s < Board.getFleetCount(); s++) {
+            if (isSunk(board, s)) continue;
+            int length = Board.getFleetShipSize(s);
+            kernel.addPlacements(unfired, Board.BOARD_SIZE, length, density);
+            kernel.addPlacements(openOrHit, Board.BOARD_SIZE, length, coverage);
+        }
+
+        // Placements over open-or-hit cells minus those over open cells only
+        // leaves the placements that include at least one hit
+        kernel.subtract(coverage, density);
+        kernel.mask(density, unfired);
+        kernel.mask(coverage, unfired);
+    }
+
+    /**
+     * Check the board's sink record for one ship of the fleet
+     */
+    private static boolean isSunk(Board board, int fleetIndex) {
+        for (int i = 0; i < board.getShipsSunk(); i++) {
+            if (board.getSinkFleetIndex(i) == fleetIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Pick the best next shot: highest coverage if any, otherwise highest density
+     * @return Cell index (row * BOARD_SIZE + col), or -1 if no cell is worth firing at
+     */
+    public int getBestCell() {
+        int best = -1;
+        int bestValue = 0;
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            if (coverage[cell] > bestValue) {
+                bestValue = coverage[cell];
+                best = cell;
+            }
+        }
+        if (best >= 0) {
+            return best;
+        }
+
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            if (density[cell] > bestValue) {
+                bestValue = density[cell];
+                best = cell;
+            }
+        }
+        return best;
+    }
+
+    public int getDensity(int row, int col) {
+        return density[row * Board.BOARD_SIZE + col];
+    }
+
+    public int getCoverage(int row, int col) {
+        return coverage[row * Board.BOARD_SIZE + col];
+    }
+
+    public DensityKernel getKernel() {
+        return kernel;
+    }
+}
@@ -8,6 +8,7 @@ public class Game {
     private Board board;
     private BoardGUI gui;
     private boolean gameOver;
+    private GameStatistics statistics;
 
     /**
      * Constructor - initializes new game
@@ -15,6 +16,7 @@ public class Game {
     public Game() {
         board = new Board();
         gameOver = false;
+        statistics = new GameStatistics();
         gui = new BoardGUI(this);
         gui.setVisible(true);
     }
@@ -39,6 +41,7 @@ public class Game {
             JOptionPane.showMessageDialog(gui, "Strike! " + board.getStrikeCounter() + " strike(s) total.", "Strike!", JOptionPane.WARNING_MESSAGE);
         } else if (result == Board.FireResult.GAME_LOST) {
             gameOver = true;
+            statistics.recordGame(board);
             int choice = JOptionPane.showConfirmDialog(gui, "Game Over! You lost after 3 strikes!\nPlay again?",
                     "Game Lost", JOptionPane.YES_NO_OPTION);
             if (choice == JOptionPane.YES_OPTION) {
@@ -53,6 +56,7 @@ public class Game {
         // Check for game won
         if (board.isGameWon()) {
             gameOver = true;
+            statistics.recordGame(board);
             gui.showGameOverDialog();
         }
     }
@@ -80,4 +84,12 @@ public class Game {
     public Board getBoard() {
         return board;
     }
+
+    /**
+     * Get statistics for every game finished in this session
+     * @return Aggregated game statistics
+     */
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
 }
\ No newline at end of file
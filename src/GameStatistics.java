@@ -0,0 +1,238 @@
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates outcomes of many finished games in fixed memory.
+ * Every structure is built from LongAdders, so simulation workers and
+ * game sessions can record concurrently without locks.
+ */
+public class GameStatistics {
+    private static final int CELL_COUNT = Board.BOARD_SIZE * Board.BOARD_SIZE;
+
+    private final LongAdder gamesPlayed = new LongAdder();
+    private final LongAdder gamesWon = new LongAdder();
+    private final LongAdder gamesLost = new LongAdder();
+
+    private final RunningMoments shots = new RunningMoments();
+    private final RunningMoments hits = new RunningMoments();
+    private final RunningMoments misses = new RunningMoments();
+    private final RunningMoments strikes = new RunningMoments();
+
+    private final StatsHistogram shotsPerGame = new StatsHistogram(CELL_COUNT + 1, 1);
+    private final StatsHistogram strikesPerGame = new StatsHistogram(4, 1);
+    private final StatsHistogram sinkShot = new StatsHistogram(CELL_COUNT + 1, 1);
+    private final StatsHistogram[] sinkShotByShip = new StatsHistogram[Board.getFleetCount()];
+
+    private final LongAdder[] cellHits = new LongAdder[CELL_COUNT];
+
+    /**
+     * Constructor - creates empty statistics
+     */
+    public GameStatistics() {
+        for (int i = 0; i < CELL_COUNT; i++) {
+            cellHits[i] = new LongAdder();
+        }
+        for (int i = 0; i < sinkShotByShip.length; i++) {
+            sinkShotByShip[i] = new StatsHistogram(CELL_COUNT + 1, 1);
+        }
+    }
+
+    /**
+     * Record the outcome of a finished game.
+     * Reads the board's sink and hit records directly, so it allocates
+     * nothing and touches only the cells that were hit.
+     * @param board Board of the game that just ended
+     */
+    public void recordGame(Board board) {
+        int totalHits = board.getTotalHits();
+        int totalMisses = board.getTotalMisses();
+        int totalShots = totalHits + totalMisses;
+
+        gamesPlayed.increment();
+        if (board.isGameWon()) {
+            gamesWon.increment();
+        } else if (board.isGameLost()) {
+            gamesLost.increment();
+        }
+
+        shots.record(totalShots);
+        hits.record(totalHits);
+        misses.record(totalMisses);
+        strikes.record(board.getStrikeCounter());
+        shotsPerGame.record(totalShots);
+        strikesPerGame.record(board.getStrikeCounter());
+
+        for (int i = 0; i < board.getShipsSunk(); i++) {
+            int shot = board.getSinkShot(i);
+            sinkShot.record(shot);
+            sinkShotByShip[board.getSinkFleetIndex(i)].record(shot);
+        }
+
+        for (int i = 0; i < totalHits; i++) {
+            cellHits[board.getHitCell(i)].increment();
+        }
+    }
+
+    /**
+     * Get how many games have hit the given cell
+     * @param row Row coordinate
+     * @param col Column coordinate
+     * @return Number of recorded games with a hit on that cell
+     */
+    public long getCellHits(int row, int col) {
+        return cellHits[row * Board.BOARD_SIZE + col].sum();
+    }
+
+    /**
+     * Write all statistics as CSV with columns section,name,key,value
+     * @param out Destination for the CSV
+     */
+    public void writeCsv(Appendable out) throws IOException {
+        out.append("section,name,key,value\n");
+        writeCsvRow(out, "counter", "games", "played", gamesPlayed.sum());
+        writeCsvRow(out, "counter", "games", "won", gamesWon.sum());
+        writeCsvRow(out, "counter", "games", "lost", gamesLost.sum());
+
+        writeCsvMoments(out, "shots", shots);
+        writeCsvMoments(out, "hits", hits);
+        writeCsvMoments(out, "misses", misses);
+        writeCsvMoments(out, "strikes", strikes);
+
+        writeCsvHistogram(out, "shots_per_game", shotsPerGame);
+        writeCsvHistogram(out, "strikes_per_game", strikesPerGame);
+        writeCsvHistogram(out, "sink_shot", sinkShot);
+        for (int i = 0; i < sinkShotByShip.length; i++) {
+            writeCsvHistogram(out, sinkShotName(i), sinkShotByShip[i]);
+        }
+
+        for (int row = 0; row < Board.BOARD_SIZE; row++) {
+            for (int col = 0; col < Board.BOARD_SIZE; col++) {
+                writeCsvRow(out, "grid", "cell_hits", row + ":" + col, getCellHits(row, col));
+            }
+        }
+    }
+
+    /**
+     * Get all statistics as a JSON document
+     * @return JSON text
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"games\":{\"played\":").append(gamesPlayed.sum())
+                .append(",\"won\":").append(gamesWon.sum())
+                .append(",\"lost\":").append(gamesLost.sum()).append("},");
+
+        json.append("\"moments\":{");
+        appendJsonMoments(json, "shots", shots).append(',');
+        appendJsonMoments(json, "hits", hits).append(',');
+        appendJsonMoments(json, "misses", misses).append(',');
+        appendJsonMoments(json, "strikes", strikes).append("},");
+
+        json.append("\"histograms\":{");
+        appendJsonHistogram(json, "shots_per_game", shotsPerGame).append(',');
+        appendJsonHistogram(json, "strikes_per_game", strikesPerGame).append(',');
+        appendJsonHistogram(json, "sink_shot", sinkShot);
+        for (int i = 0; i < sinkShotByShip.length; i++) {
+            appendJsonHistogram(json.append(','), sinkShotName(i), sinkShotByShip[i]);
+        }
+        json.append("},");
+
+        json.append("\"cell_hits\":[");
+        for (int row = 0; row < Board.BOARD_SIZE; row++) {
+            json.append(row == 0 ? "[" : ",[");
+            for (int col = 0; col < Board.BOARD_SIZE; col++) {
+                if (col > 0) {
+                    json.append(',');
+                }
+                json.append(getCellHits(row, col));
+            }
+            json.append(']');
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    /**
+     * Name of the sink histogram for one ship of the fleet, e.g. sink_shot_ship1_size3
+     */
+    private static String sinkShotName(int fleetIndex) {
+        return new StringBuilder("sink_shot_ship").append(fleetIndex)
+                .append("_size").append(Board.getFleetShipSize(fleetIndex)).toString();
+    }
+
+    private static void writeCsvRow(Appendable out, String section, String name, String key, Object value)
+            throws IOException {
+        out.append(section).append(',').append(name).append(',').append(key).append(',')
+                .append(String.valueOf(value)).append('\n');
+    }
+
+    private static void writeCsvMoments(Appendable out, String name, RunningMoments moments) throws IOException {
+        writeCsvRow(out, "moments", name, "count", moments.getCount());
+        writeCsvRow(out, "moments", name, "mean", formatDouble(moments.getMean()));
+        writeCsvRow(out, "moments", name, "stddev", formatDouble(moments.getStandardDeviation()));
+        writeCsvRow(out, "moments", name, "min", moments.getMin());
+        writeCsvRow(out, "moments", name, "max", moments.getMax());
+    }
+
+    private static void writeCsvHistogram(Appendable out, String name, StatsHistogram histogram)
+            throws IOException {
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            writeCsvRow(out, "histogram", name, String.valueOf(histogram.getLowerBound(i)), histogram.getCount(i));
+        }
+        writeCsvRow(out, "histogram", name, "overflow", histogram.getOverflowCount());
+    }
+
+    private static StringBuilder appendJsonMoments(StringBuilder json, String name, RunningMoments moments) {
+        return json.append('"').append(name).append("\":{")
+                .append("\"count\":").append(moments.getCount())
+                .append(",\"mean\":").append(formatDouble(moments.getMean()))
+                .append(",\"stddev\":").append(formatDouble(moments.getStandardDeviation()))
+                .append(",\"min\":").append(moments.getMin())
+                .append(",\"max\":").append(moments.getMax())
+                .append('}');
+    }
+
+    private static StringBuilder appendJsonHistogram(StringBuilder json, String name, StatsHistogram histogram) {
+        json.append('"').append(name).append("\":{\"bucket_width\":")
+                .append(histogram.getBucketWidth())
+                .append(",\"counts\":[");
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(histogram.getCount(i));
+        }
+        return json.append("],\"overflow\":").append(histogram.getOverflowCount()).append('}');
+    }
+
+    private static String formatDouble(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    // Getter methods
+    public long getGamesPlayed() {
+        return gamesPlayed.sum();
+    }
+
+    public long getGamesWon() {
+        return gamesWon.sum();
+    }
+
+    public long getGamesLost() {
+        return gamesLost.sum();
+    }
+
+    public RunningMoments getShots() {
+        return shots;
+    }
+
+    /**
+     * Get the sink-shot histogram of one ship of the fleet
+     * @param fleetIndex Fleet index, see Board.getFleetShipSize
+     * @return Histogram of the shot number on which that ship sank
+     */
+    public StatsHistogram getSinkShots(int fleetIndex) {
+        return sinkShotByShip[fleetIndex];
+    }
+}
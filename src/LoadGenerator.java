@@ -0,0 +1,439 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator for hosted game sessions.
+ * Drives simulated players against Board in-process, one thread per session,
+ * and reports per-move latency, throughput, and heap/GC behavior as the
+ * number of concurrent sessions rises. Session counts are run in ascending order.
+ * Heap behavior is reported as bytes allocated per move and per game (from
+ * per-thread allocation counters, where the JVM supports them) and as the peak
+ * heap in use during each step.
+ *
+ * The simulated player is chosen with --player: random fires at cells in
+ * random order and almost never wins; hunt fires at the neighbours of its
+ * hits before going back to random cells; density fires where DensityMap
+ * scores highest. Each row reports the fraction of games won.
+ *
+ * Usage: java LoadGenerator [--sessions 1,2,4,8] [--games 2000] [--warmup 500]
+ *                           [--think-us 0] [--player random|hunt|density]
+ *                           [--out report.txt] [--stats stats.csv|stats.json]
+ */
+public class LoadGenerator {
+    private static final int CELL_COUNT = Board.BOARD_SIZE * Board.BOARD_SIZE;
+
+    private final int[] sessionSteps;
+    private final Player player;
+    private final int gamesPerSession;
+    private final int warmupGames;
+    private final long thinkNanos;
+    private final GameStatistics statistics;
+    private final BoardPool boardPool;
+    private final int maxSessions;
+    private volatile boolean recordStatistics;
+
+    /**
+     * Strategy of the simulated players
+     */
+    public enum Player {
+        RANDOM, HUNT, DENSITY
+    }
+
+    /**
+     * Result of one step of the load run
+     */
+    private static class StepResult {
+        int sessions;
+        long games;
+        long wins;
+        long elapsedNanos;
+        LatencyHistogram latency = new LatencyHistogram();
+        long allocatedBytes;  // -1 if the JVM cannot count per-thread allocation
+        long peakHeapBytes;
+        long heapUsedBytes;
+        long gcCount;
+        long gcMillis;
+    }
+
+    /**
+     * What one simulated player measured
+     */
+    private static class SessionResult {
+        LatencyHistogram latency = new LatencyHistogram();
+        long allocatedBytes;
+        long wins;
+    }
+
+    /**
+     * Constructor for LoadGenerator
+     * @param sessionSteps Session counts to run; run in ascending order, duplicates dropped
+     * @param gamesPerSession Full games each session plays per step
+     * @param warmupGames Games each session plays before measuring (discarded)
+     * @param thinkNanos Simulated player think time between moves
+     * @param player Strategy every simulated player uses
+     * @param statistics Where to record measured game outcomes, or null to skip
+     */
+    public LoadGenerator(int[] sessionSteps, int gamesPerSession, int warmupGames, long thinkNanos,
+                         Player player, GameStatistics statistics) {
+        this.sessionSteps = sortedDistinct(sessionSteps);
+        this.player = player;
+        this.gamesPerSession = gamesPerSession;
+        this.warmupGames = warmupGames;
+        this.thinkNanos = thinkNanos;
+        this.statistics = statistics;
+        this.maxSessions = this.sessionSteps[this.sessionSteps.length - 1];
+        this.boardPool = new BoardPool(maxSessions);
+    }
+
+    /**
+     * Run every step and write the report
+     * @param out Destination for the report
+     */
+    public void run(PrintWriter out) throws Exception {
+        if (warmupGames > 0) {
+            runStep(maxSessions, warmupGames);
+        }
+
+        writeHeader(out);
+        recordStatistics = statistics != null;
+        for (int sessions : sessionSteps) {
+            StepResult result = runStep(sessions, gamesPerSession);
+            writeRow(out, result);
+            out.flush();
+        }
+        out.printf("# board_pool hits=%d misses=%d discards=%d hit_rate=%.4f%n",
+                boardPool.getHits(), boardPool.getMisses(), boardPool.getDiscards(), boardPool.getHitRate());
+    }
+
+    /**
+     * Run a single step with the given number of concurrent sessions
+     * @param sessions Number of concurrent sessions
+     * @param games Games each session plays
+     * @return Aggregated measurements for the step
+     */
+    private StepResult runStep(int sessions, int games) throws Exception {
+        System.gc();
+        long gcCountBefore = totalGcCount();
+        long gcMillisBefore = totalGcMillis();
+        List<MemoryPoolMXBean> heapPools = heapPools();
+        for (MemoryPoolMXBean pool : heapPools) {
+            pool.resetPeakUsage();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(sessions);
+        List<Future<SessionResult>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < sessions; i++) {
+                futures.add(executor.submit(() -> playSession(games)));
+            }
+
+            StepResult result = new StepResult();
+            for (Future<SessionResult> future : futures) {
+                SessionResult session = future.get();
+                result.latency.merge(session.latency);
+                result.wins += session.wins;
+                if (session.allocatedBytes < 0 || result.allocatedBytes < 0) {
+                    result.allocatedBytes = -1;
+                } else {
+                    result.allocatedBytes += session.allocatedBytes;
+                }
+            }
+            result.elapsedNanos = System.nanoTime() - start;
+            result.sessions = sessions;
+            result.games = (long) sessions * games;
+            // Sum of per-pool peaks, so an upper bound on the true combined peak
+            for (MemoryPoolMXBean pool : heapPools) {
+                result.peakHeapBytes += pool.getPeakUsage().getUsed();
+            }
+            result.heapUsedBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            result.gcCount = totalGcCount() - gcCountBefore;
+            result.gcMillis = totalGcMillis() - gcMillisBefore;
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Play full games as one simulated player.
+     * Only makeMove is timed; choosing the shot is player think time.
+     * @param games Number of games to play
+     * @return Latency of every move made, bytes allocated while playing, and games won
+     */
+    private SessionResult playSession(int games) {
+        SessionResult result = new SessionResult();
+        LatencyHistogram latency = result.latency;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int[] cells = new int[CELL_COUNT];
+        int[] targets = new int[CELL_COUNT * 4];  // Hunt player's pending neighbours
+        DensityMap densityMap = (player == Player.DENSITY) ? new DensityMap() : null;
+        long allocatedBefore = currentThreadAllocatedBytes();
+
+        for (int game = 0; game < games; game++) {
+            Board board = boardPool.acquire();
+            shuffleCells(cells, random);
+            int nextCell = 0;
+            int targetCount = 0;
+
+            while (!board.isGameOver()) {
+                int cell;
+                if (player == Player.DENSITY) {
+                    densityMap.update(board);
+                    cell = densityMap.getBestCell();
+                } else {
+                    cell = -1;
+                    while (cell < 0 && targetCount > 0) {
+                        int target = targets[--targetCount];
+                        if (!board.hasFiredAt(target / Board.BOARD_SIZE, target % Board.BOARD_SIZE)) {
+                            cell = target;
+                        }
+                    }
+                    while (cell < 0 && nextCell < CELL_COUNT) {
+                        int candidate = cells[nextCell++];
+                        if (!board.hasFiredAt(candidate / Board.BOARD_SIZE, candidate % Board.BOARD_SIZE)) {
+                            cell = candidate;
+                        }
+                    }
+                }
+                if (cell < 0) {
+                    break;
+                }
+                int row = cell / Board.BOARD_SIZE;
+                int col = cell % Board.BOARD_SIZE;
+
+                long before = System.nanoTime();
+                Board.FireResult fired = board.makeMove(row, col);
+                latency.record(System.nanoTime() - before);
+
+                if (player == Player.HUNT && (fired == Board.FireResult.HIT || fired == Board.FireResult.SUNK)) {
+                    targetCount = pushNeighbours(targets, targetCount, row, col);
+                }
+                if (thinkNanos > 0) {
+                    LockSupport.parkNanos(thinkNanos);
+                }
+            }
+
+            if (board.isGameWon()) {
+                result.wins++;
+            }
+            if (recordStatistics) {
+                statistics.recordGame(board);
+            }
+            boardPool.release(board);
+        }
+
+        long allocatedAfter = currentThreadAllocatedBytes();
+        result.allocatedBytes = (allocatedBefore < 0 || allocatedAfter < 0) ? -1 : allocatedAfter - allocatedBefore;
+        return result;
+    }
+
+    /**
+     * Add the in-bounds neighbours of a hit to the hunt player's targets
+     * @return New number of targets
+     */
+    private static int pushNeighbours(int[] targets, int count, int row, int col) {
+        if (row > 0) targets[count++] = (row - 1) * Board.BOARD_SIZE + col;
+        if (row < Board.BOARD_SIZE - 1) targets[count++] = (row + 1) * Board.BOARD_SIZE + col;
+        if (col > 0) targets[count++] = row * Board.BOARD_SIZE + col - 1;
+        if (col < Board.BOARD_SIZE - 1) targets[count++] = row * Board.BOARD_SIZE + col + 1;
+        return count;
+    }
+
+    /**
+     * Bytes allocated so far by the calling thread
+     * @return Allocated bytes, or -1 if the JVM does not track them
+     */
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean hotspotThreads = (com.sun.management.ThreadMXBean) threads;
+        if (!hotspotThreads.isThreadAllocatedMemorySupported() || !hotspotThreads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return hotspotThreads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        List<MemoryPoolMXBean> pools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pools.add(pool);
+            }
+        }
+        return pools;
+    }
+
+    /**
+     * Fill the array with every cell index in random order
+     */
+    private static void shuffleCells(int[] cells, ThreadLocalRandom random) {
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = i;
+        }
+        for (int i = cells.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = cells[i];
+            cells[i] = cells[j];
+            cells[j] = temp;
+        }
+    }
+
+    private void writeHeader(PrintWriter out) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        out.println("# Battleship load report");
+        out.printf("# java=%s vm=%s cpus=%d max_heap_mb=%d%n",
+                System.getProperty("java.version"), System.getProperty("java.vm.name"),
+                Runtime.getRuntime().availableProcessors(),
+                memory.getHeapMemoryUsage().getMax() / (1024 * 1024));
+        out.printf("# games_per_session=%d warmup_games=%d think_us=%d player=%s%n",
+                gamesPerSession, warmupGames, thinkNanos / 1000, player.name().toLowerCase(Locale.ROOT));
+        out.printf("%-8s %10s %8s %12s %12s %10s %10s %10s %12s %12s %12s %12s %10s %8s %8s%n",
+                "sessions", "games", "win_rate", "moves", "moves_per_s", "p50_ns", "p99_ns", "p999_ns",
+                "max_ns", "alloc_b_move", "alloc_b_game", "peak_heap_mb", "heap_mb", "gc_count", "gc_ms");
+    }
+
+    private void writeRow(PrintWriter out, StepResult result) {
+        long moves = result.latency.getTotalCount();
+        double seconds = result.elapsedNanos / 1_000_000_000.0;
+        String allocPerMove = "n/a";
+        String allocPerGame = "n/a";
+        if (result.allocatedBytes >= 0) {
+            allocPerMove = String.format("%.2f", (double) result.allocatedBytes / Math.max(1, moves));
+            allocPerGame = String.format("%.1f", (double) result.allocatedBytes / Math.max(1, result.games));
+        }
+        out.printf("%-8d %10d %8.4f %12d %12.0f %10d %10d %10d %12d %12s %12s %12d %10d %8d %8d%n",
+                result.sessions, result.games, (double) result.wins / Math.max(1, result.games), moves, moves / seconds,
+                result.latency.getValueAtPercentile(50.0),
+                result.latency.getValueAtPercentile(99.0),
+                result.latency.getValueAtPercentile(99.9),
+                result.latency.getMaxValue(),
+                allocPerMove, allocPerGame,
+                result.peakHeapBytes / (1024 * 1024),
+                result.heapUsedBytes / (1024 * 1024),
+                result.gcCount, result.gcMillis);
+    }
+
+    private static long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    /**
+     * Sort session counts ascending and drop duplicates
+     */
+    private static int[] sortedDistinct(int[] steps) {
+        if (steps.length == 0) {
+            throw new IllegalArgumentException("At least one session count is required");
+        }
+        return Arrays.stream(steps).distinct().sorted().toArray();
+    }
+
+    /**
+     * Parse a comma separated list of session counts
+     */
+    private static int[] parseSteps(String value) {
+        String[] parts = value.split(",");
+        int[] steps = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            steps[i] = Integer.parseInt(parts[i].trim());
+            if (steps[i] < 1) {
+                throw new IllegalArgumentException("Session count must be positive: " + parts[i]);
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * Main method - runs the load generator
+     * @param args Command line options, see class documentation
+     */
+    public static void main(String[] args) throws Exception {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int[] steps = {1, 2, 4, cpus, cpus * 2};
+        int games = 2000;
+        int warmup = 500;
+        long thinkMicros = 0;
+        String outFile = null;
+        String statsFile = null;
+        Player player = Player.RANDOM;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = (i + 1 < args.length) ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--sessions": steps = parseSteps(value); i++; break;
+                case "--games": games = Integer.parseInt(value); i++; break;
+                case "--warmup": warmup = Integer.parseInt(value); i++; break;
+                case "--think-us": thinkMicros = Long.parseLong(value); i++; break;
+                case "--player": player = Player.valueOf(value.toUpperCase(Locale.ROOT)); i++; break;
+                case "--out": outFile = value; i++; break;
+                case "--stats": statsFile = value; i++; break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.err.println("Usage: java LoadGenerator [--sessions 1,2,4,8] [--games 2000]"
+                            + " [--warmup 500] [--think-us 0] [--player random|hunt|density]"
+                            + " [--out report.txt] [--stats stats.csv]");
+                    System.exit(2);
+            }
+        }
+
+        GameStatistics statistics = (statsFile != null) ? new GameStatistics() : null;
+        LoadGenerator generator = new LoadGenerator(steps, games, warmup, thinkMicros * 1000, player, statistics);
+        if (outFile == null) {
+            PrintWriter out = new PrintWriter(System.out);
+            generator.run(out);
+            out.flush();
+        } else {
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(outFile)))) {
+                generator.run(out);
+            } catch (IOException e) {
+                System.err.println("Could not write report: " + e.getMessage());
+                System.exit(1);
+            }
+        }
+
+        if (statsFile != null) {
+            try (BufferedWriter out = Files.newBufferedWriter(Paths.get(statsFile))) {
+                if (statsFile.endsWith(".json")) {
+                    out.write(statistics.toJson());
+                } else {
+                    statistics.writeCsv(out);
+                }
+            } catch (IOException e) {
+                System.err.println("Could not write statistics: " + e.getMessage());
+                System.exit(1);
+            }
+        }
+    }
+}
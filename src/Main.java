@@ -4,12 +4,28 @@
 public class Main {
     /**
      * Main method - launches the Battleship game
-     * @param args Command line arguments (unused)
+     * @param args Command line arguments: --text (or -t) plays in the terminal,
+     *             any further options are passed on to TerminalGame
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws java.io.IOException {
+        if (args.length > 0 && (args[0].equals("--text") || args[0].equals("-t"))) {
+            // Terminal mode never loads AWT/Swing
+            String[] options = new String[args.length - 1];
+            System.arraycopy(args, 1, options, 0, options.length);
+            TerminalGame.main(options);
+            return;
+        }
+
+        launchGui();
+    }
+
+    /**
+     * Start the Swing frontend
+     */
+    private static void launchGui() {
         // Ensure GUI runs on Event Dispatch Thread
         javax.swing.SwingUtilities.invokeLater(() -> {
             new Game();
         });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+/**
+ * Portable density kernel using plain loops.
+ * Uses the same branch-free, column-wise layout as VectorDensityKernel
+ * so the two can be compared directly.
+ */
+public class ScalarDensityKernel implements DensityKernel {
+
+    @Override
+    public void addPlacements(int[] open, int size, int length, int[] out) {
+        if (length < 1 || length > size) {
+            return;
+        }
+        int starts = size - length + 1;
+
+        // Horizontal windows: start columns run along each row
+        for (int row = 0; row < size; row++) {
+            int base = row * size;
+            for (int col = 0; col < starts; col++) {
+                int valid = open[base + col];
+                for (int k = 1; k < length; k++) {
+                    valid &= open[base + col + k];
+                }
+                for (int k = 0; k < length; k++) {
+                    out[base + col + k] += valid;
+                }
+            }
+        }
+
+        // Vertical windows: each start row covers the next length rows
+        for (int row = 0; row < starts; row++) {
+            int base = row * size;
+            for (int col = 0; col < size; col++) {
+                int valid = open[base + col];
+                for (int k = 1; k < length; k++) {
+                    valid &= open[base + k * size + col];
+                }
+                for (int k = 0; k < length; k++) {
+                    out[base + k * size + col] += valid;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void subtract(int[] values, int[] amounts) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] -= amounts[i];
+        }
+    }
+
+    @Override
+    public void mask(int[] values, int[] keep) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] *= keep[i];
+        }
+    }
+}
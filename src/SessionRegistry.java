@@ -0,0 +1,258 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Thread-safe registry of game sessions, each backed by its own Board.
+ * Session ids are hashed across shards, each a ConcurrentHashMap, so looking
+ * up a session never takes a lock. Every session has its own lock, used only
+ * to serialize moves on that game; a session is closed under that lock before
+ * its board is recycled, so a caller still holding a removed session gets
+ * IllegalArgumentException rather than another game's board.
+ * Sessions idle longer than the TTL are evicted and their boards recycled.
+ */
+public class SessionRegistry {
+    private final Shard[] shards;
+    private final int shardMask;
+    private final long ttlNanos;
+    private final BoardPool boardPool;
+    private final BiConsumer<String, Board> evictionListener;
+
+    /**
+     * One game session; its board is only touched while holding its lock
+     */
+    private static class Session {
+        final String id;
+        final Board board;
+        final ReentrantLock lock = new ReentrantLock();
+        volatile long lastAccessNanos;
+        boolean closed;  // Guarded by lock
+
+        Session(String id, Board board) {
+            this.id = id;
+            this.board = board;
+            this.lastAccessNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * One slice of the id space
+     */
+    private static class Shard {
+        final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Constructor with one shard per four threads of available parallelism
+     * @param ttlMillis Idle time after which a session is evicted
+     */
+    public SessionRegistry(long ttlMillis) {
+        this(Runtime.getRuntime().availableProcessors() * 4, ttlMillis, new BoardPool(1024), null);
+    }
+
+    /**
+     * Constructor for SessionRegistry
+     * @param shardCount Number of shards, rounded up to a power of two
+     * @param ttlMillis Idle time after which a session is evicted
+     * @param boardPool Pool that session boards come from and return to
+     * @param evictionListener Called with each evicted session's id and board before the
+     *                         board is recycled, e.g. to snapshot it; may be null
+     */
+    public SessionRegistry(int shardCount, long ttlMillis, BoardPool boardPool,
+                           BiConsumer<String, Board> evictionListener) {
+        if (shardCount < 1 || ttlMillis < 1) {
+            throw new IllegalArgumentException("Shard count and TTL must be positive");
+        }
+        int size = Integer.highestOneBit(shardCount);
+        if (size < shardCount) {
+            size <<= 1;
+        }
+        shards = new Shard[size];
+        for (int i = 0; i < size; i++) {
+            shards[i] = new Shard();
+        }
+        shardMask = size - 1;
+        ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.boardPool = boardPool;
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Open a new session with a fresh game
+     * @param id Session id
+     * @return True if created, false if the id is already in use
+     */
+    public boolean create(String id) {
+        // Resetting a pooled board is the slow part, so do it before publishing
+        Session session = new Session(id, boardPool.acquire());
+        if (shardFor(id).sessions.putIfAbsent(id, session) != null) {
+            boardPool.release(session.board);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Fire at the given coordinates in a session's game
+     * @param id Session id
+     * @param row Row coordinate
+     * @param col Column coordinate
+     * @return Result of the fire attempt
+     * @throws IllegalArgumentException if the session does not exist
+     */
+    public Board.FireResult makeMove(String id, int row, int col) {
+        Session session = lookup(id);
+        session.lock.lock();
+        try {
+            if (session.closed) {
+                throw new IllegalArgumentException("Unknown session: " + id);
+            }
+            session.lastAccessNanos = System.nanoTime();
+            return session.board.makeMove(row, col);
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    /**
+     * Start a new game in an existing session, reusing its board
+     * @param id Session id
+     * @throws IllegalArgumentException if the session does not exist
+     */
+    public void newGame(String id) {
+        withBoard(id, board -> {
+            board.reset();
+            return null;
+        });
+    }
+
+    /**
+     * Run an action on a session's board while holding the session lock
+     * @param id Session id
+     * @param action Action to run; must not keep the board after returning
+     * @return Result of the action
+     * @throws IllegalArgumentException if the session does not exist
+     */
+    public <T> T withBoard(String id, Function<Board, T> action) {
+        Session session = lookup(id);
+        session.lock.lock();
+        try {
+            if (session.closed) {
+                throw new IllegalArgumentException("Unknown session: " + id);
+            }
+            session.lastAccessNanos = System.nanoTime();
+            return action.apply(session.board);
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    /**
+     * Close a session and recycle its board
+     * @param id Session id
+     * @return True if the session existed
+     */
+    public boolean remove(String id) {
+        Session session = shardFor(id).sessions.remove(id);
+        if (session == null) {
+            return false;
+        }
+
+        session.lock.lock();
+        try {
+            session.closed = true;
+        } finally {
+            session.lock.unlock();
+        }
+        boardPool.release(session.board);
+        return true;
+    }
+
+    /**
+     * Evict every session idle for longer than the TTL.
+     * Sessions busy with a move are skipped, as they are not idle.
+     * @return Number of sessions evicted
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        List<Session> evicted = new ArrayList<>();
+
+        for (Shard shard : shards) {
+            for (Session session : shard.sessions.values()) {
+                if (now - session.lastAccessNanos < ttlNanos || !session.lock.tryLock()) {
+                    continue;
+                }
+                try {
+                    // remove(id, session) fails if remove() or another sweep got there
+                    // first, so each board is released exactly once
+                    if (now - session.lastAccessNanos >= ttlNanos
+                            && shard.sessions.remove(session.id, session)) {
+                        session.closed = true;
+                        evicted.add(session);
+                    }
+                } finally {
+                    session.lock.unlock();
+                }
+            }
+        }
+
+        // Closed sessions are unreachable, so their boards are safe to hand out
+        for (Session session : evicted) {
+            if (evictionListener != null) {
+                evictionListener.accept(session.id, session.board);
+            }
+            boardPool.release(session.board);
+        }
+        return evicted.size();
+    }
+
+    /**
+     * Run evictIdle periodically
+     * @param executor Executor to schedule on
+     * @param periodMillis Time between sweeps
+     * @return Handle that cancels the sweeps
+     */
+    public ScheduledFuture<?> scheduleEviction(ScheduledExecutorService executor, long periodMillis) {
+        return executor.scheduleAtFixedRate(this::evictIdle, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the number of open sessions
+     * @return Session count across all shards; approximate while sessions change
+     */
+    public int size() {
+        int total = 0;
+        for (Shard shard : shards) {
+            total += shard.sessions.size();
+        }
+        return total;
+    }
+
+    public boolean contains(String id) {
+        return shardFor(id).sessions.containsKey(id);
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    private Session lookup(String id) {
+        Session session = shardFor(id).sessions.get(id);
+        if (session == null) {
+            throw new IllegalArgumentException("Unknown session: " + id);
+        }
+        return session;
+    }
+
+    private Shard shardFor(String id) {
+        int h = id.hashCode();
+        h ^= (h >>> 16);
+        return shards[h & shardMask];
+    }
+}
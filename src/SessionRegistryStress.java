@@ -0,0 +1,379 @@
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Concurrency stress test for SessionRegistry.
+ * First checks that moves on one shared session are serialized, then that
+ * sessions can be removed, evicted and re-created while other threads are
+ * playing them without a board ever being shared, then measures move
+ * throughput as threads are added, each thread playing its own sessions,
+ * to show how the registry scales per core.
+ *
+ * Thread counts always include a 1-thread baseline and run in ascending
+ * order; scaling is throughput relative to that baseline.
+ *
+ * Usage: java SessionRegistryStress [--threads 1,2,4,8] [--sessions 64] [--millis 2000]
+ *                                   [--warmup-millis 3000]
+ */
+public class SessionRegistryStress {
+    private static final int CELL_COUNT = Board.BOARD_SIZE * Board.BOARD_SIZE;
+
+    /**
+     * Fire at every cell of one session from many threads at once
+     * @param threads Number of threads
+     * @return True if every cell was fired exactly once
+     */
+    static boolean checkSameSession(int threads) throws InterruptedException {
+        SessionRegistry registry = new SessionRegistry(60_000);
+        registry.create("shared");
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                int[] cells = shuffledCells();
+                awaitQuietly(start);
+                for (int cell : cells) {
+                    Board.FireResult result = registry.makeMove("shared",
+                            cell / Board.BOARD_SIZE, cell % Board.BOARD_SIZE);
+                    if (result != Board.FireResult.ALREADY_FIRED) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        int shots = registry.withBoard("shared", board -> board.getTotalHits() + board.getTotalMisses());
+        return accepted.get() == CELL_COUNT && shots == CELL_COUNT;
+    }
+
+    /**
+     * Board pool that tracks which boards are idle, so the handoff check can
+     * spot a board used after it was recycled, or released twice
+     */
+    static class TrackingPool extends BoardPool {
+        final Set<Board> idle = ConcurrentHashMap.newKeySet();
+        final AtomicInteger doubleReleases = new AtomicInteger();
+
+        TrackingPool(int capacity) {
+            super(capacity);
+        }
+
+        @Override
+        public Board acquire() {
+            Board board = super.acquire();
+            idle.remove(board);
+            return board;
+        }
+
+        @Override
+        public void release(Board board) {
+            // Marked idle before it can be handed out again; discarded boards stay
+            // marked, as any later use of them is just as wrong
+            if (!idle.add(board)) {
+                doubleReleases.incrementAndGet();
+            }
+            super.release(board);
+        }
+    }
+
+    /**
+     * Counts from one run of the handoff check
+     */
+    static class Handoff {
+        final AtomicLong moves = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong removed = new AtomicLong();
+        final AtomicLong evicted = new AtomicLong();
+        final AtomicLong violations = new AtomicLong();
+    }
+
+    /**
+     * Play a small set of shared sessions from many threads while the same
+     * threads remove and re-create them and a sweeper evicts idle ones.
+     * A violation is a board seen in use by two sessions at once, a board
+     * used while it sits idle in the pool, or a board released twice.
+     * Callers that lose a race with removal must get IllegalArgumentException.
+     * @param threads Number of playing threads
+     * @param millis How long to run
+     * @return Counts of moves, rejections, removals, evictions and violations
+     */
+    static Handoff checkHandoff(int threads, long millis) throws InterruptedException {
+        TrackingPool pool = new TrackingPool(8);
+        Handoff handoff = new Handoff();
+        SessionRegistry registry = new SessionRegistry(4, 1, pool,
+                (id, board) -> handoff.evicted.incrementAndGet());
+        String[] ids = new String[32];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = "h" + i;
+            registry.create(ids[i]);
+        }
+        Set<Board> inUse = ConcurrentHashMap.newKeySet();
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor();
+        registry.scheduleEviction(sweeper, 1);
+
+        CountDownLatch start = new CountDownLatch(1);
+        long stopAt = System.nanoTime() + millis * 1_000_000L;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                awaitQuietly(start);
+                while (System.nanoTime() < stopAt) {
+                    String id = ids[random.nextInt(ids.length)];
+                    int op = random.nextInt(64);
+                    try {
+                        if (op == 0) {
+                            if (registry.remove(id)) {
+                                handoff.removed.incrementAndGet();
+                            }
+                        } else if (op < 4) {
+                            registry.create(id);
+                        } else if (op < 6) {
+                            // Leave a gap so the sweeper finds idle sessions
+                            LockSupport.parkNanos(1_500_000L);
+                        } else {
+                            int cell = random.nextInt(CELL_COUNT);
+                            registry.withBoard(id, board -> {
+                                if (pool.idle.contains(board) || !inUse.add(board)) {
+                                    handoff.violations.incrementAndGet();
+                                    return null;
+                                }
+                                if (board.isGameOver()) {
+                                    board.reset();
+                                } else {
+                                    board.makeMove(cell / Board.BOARD_SIZE, cell % Board.BOARD_SIZE);
+                                }
+                                inUse.remove(board);
+                                return null;
+                            });
+                            handoff.moves.incrementAndGet();
+                        }
+                    } catch (IllegalArgumentException e) {
+                        handoff.rejected.incrementAndGet();
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        sweeper.shutdownNow();
+        sweeper.awaitTermination(1, TimeUnit.SECONDS);
+
+        // Once quiet, every live session must own a distinct board that is not idle
+        Set<Board> owned = ConcurrentHashMap.newKeySet();
+        for (String id : ids) {
+            try {
+                registry.withBoard(id, board -> {
+                    if (pool.idle.contains(board) || !owned.add(board)) {
+                        handoff.violations.incrementAndGet();
+                    }
+                    return null;
+                });
+            } catch (IllegalArgumentException e) {
+                // Removed or evicted and not re-created
+            }
+        }
+        handoff.violations.addAndGet(pool.doubleReleases.get());
+        return handoff;
+    }
+
+    /**
+     * Moves made during one timed run and how long the run took
+     */
+    static class Throughput {
+        long moves;
+        long elapsedNanos;
+
+        double movesPerSecond() {
+            return moves * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+
+    /**
+     * Measure throughput with each thread driving its own sessions.
+     * Timing starts when all workers have created their sessions and are
+     * released together, and stops when the last worker finishes.
+     * @param threads Number of threads
+     * @param sessionsPerThread Sessions owned by each thread
+     * @param millis How long each worker keeps making moves
+     * @return Total moves made and the measured window
+     */
+    static Throughput measureThroughput(int threads, int sessionsPerThread, long millis) throws InterruptedException {
+        SessionRegistry registry = new SessionRegistry(
+                threads * 4, 60_000, new BoardPool(threads * sessionsPerThread), null);
+        AtomicLong totalMoves = new AtomicLong();
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] deadline = new long[1];  // Written before start opens, read after
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            final int threadIndex = t;
+            workers[t] = new Thread(() -> {
+                String[] ids = new String[sessionsPerThread];
+                for (int i = 0; i < sessionsPerThread; i++) {
+                    ids[i] = "t" + threadIndex + "-s" + i;
+                    registry.create(ids[i]);
+                }
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long moves = 0;
+                ready.countDown();
+                awaitQuietly(start);
+                long stopAt = deadline[0];
+
+                while (System.nanoTime() < stopAt) {
+                    for (int batch = 0; batch < 256; batch++) {
+                        String id = ids[random.nextInt(sessionsPerThread)];
+                        int cell = random.nextInt(CELL_COUNT);
+                        Board.FireResult result = registry.makeMove(id,
+                                cell / Board.BOARD_SIZE, cell % Board.BOARD_SIZE);
+                        if (result == Board.FireResult.GAME_LOST
+                                || (result == Board.FireResult.SUNK && registry.withBoard(id, Board::isGameWon))) {
+                            registry.newGame(id);
+                        }
+                        moves++;
+                    }
+                }
+                totalMoves.addAndGet(moves);
+            });
+            workers[t].start();
+        }
+
+        ready.await();
+        long startNanos = System.nanoTime();
+        deadline[0] = startNanos + millis * 1_000_000L;
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Throughput throughput = new Throughput();
+        throughput.elapsedNanos = System.nanoTime() - startNanos;
+        throughput.moves = totalMoves.get();
+        return throughput;
+    }
+
+    private static int[] shuffledCells() {
+        int[] cells = new int[CELL_COUNT];
+        for (int i = 0; i < CELL_COUNT; i++) {
+            cells[i] = i;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = CELL_COUNT - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = cells[i];
+            cells[i] = cells[j];
+            cells[j] = temp;
+        }
+        return cells;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Main method - runs the stress test
+     * @param args Command line options, see class documentation
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int[] steps = {1, 2, 4, cpus};
+        int sessions = 64;
+        long millis = 2000;
+        long warmupMillis = 3000;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = (i + 1 < args.length) ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--threads":
+                    String[] parts = value.split(",");
+                    steps = new int[parts.length];
+                    for (int p = 0; p < parts.length; p++) {
+                        steps[p] = Integer.parseInt(parts[p].trim());
+                        if (steps[p] < 1) {
+                            throw new IllegalArgumentException("Thread count must be positive: " + parts[p]);
+                        }
+                    }
+                    i++;
+                    break;
+                case "--sessions": sessions = Integer.parseInt(value); i++; break;
+                case "--millis": millis = Long.parseLong(value); i++; break;
+                case "--warmup-millis": warmupMillis = Long.parseLong(value); i++; break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.err.println("Usage: java SessionRegistryStress [--threads 1,2,4,8]"
+                            + " [--sessions 64] [--millis 2000] [--warmup-millis 3000]");
+                    System.exit(2);
+            }
+        }
+
+        // Always start from a single-thread baseline, then rise in order
+        int[] withBaseline = Arrays.copyOf(steps, steps.length + 1);
+        withBaseline[steps.length] = 1;
+        steps = Arrays.stream(withBaseline).distinct().sorted().toArray();
+
+        for (int round = 0; round < 20; round++) {
+            if (!checkSameSession(Math.max(4, cpus))) {
+                System.out.println("FAIL: concurrent moves on one session were not serialized");
+                System.exit(1);
+            }
+        }
+        System.out.println("same-session serialization: OK");
+
+        Handoff handoff = checkHandoff(Math.max(4, cpus), 2000);
+        if (handoff.violations.get() != 0 || handoff.evicted.get() == 0 || handoff.removed.get() == 0) {
+            System.out.printf("FAIL: eviction/removal handoff violations=%d evicted=%d removed=%d%n",
+                    handoff.violations.get(), handoff.evicted.get(), handoff.removed.get());
+            System.exit(1);
+        }
+        System.out.printf("eviction/removal handoff: OK (moves=%d evicted=%d removed=%d rejected=%d)%n",
+                handoff.moves.get(), handoff.evicted.get(), handoff.removed.get(), handoff.rejected.get());
+
+        // Warm up both the single-thread and the widest paths before measuring
+        measureThroughput(1, sessions, warmupMillis);
+        measureThroughput(steps[steps.length - 1], sessions, warmupMillis);
+
+        System.out.printf("# cpus=%d sessions_per_thread=%d millis=%d warmup_millis=%d%n",
+                cpus, sessions, millis, warmupMillis);
+        if (steps[steps.length - 1] > cpus) {
+            System.out.printf("# rows above %d threads share cores; they show contention, not per-core scaling%n", cpus);
+        }
+        System.out.printf("%-8s %12s %10s %12s %14s %8s%n",
+                "threads", "moves", "elapsed_ms", "moves_per_s", "per_thread_s", "scaling");
+        double baseline = 0;
+        for (int threads : steps) {
+            Throughput throughput = measureThroughput(threads, sessions, millis);
+            double perSecond = throughput.movesPerSecond();
+            if (threads == 1) {
+                baseline = perSecond;
+            }
+            System.out.printf("%-8d %12d %10d %12.0f %14.0f %8.2f%n",
+                    threads, throughput.moves, throughput.elapsedNanos / 1_000_000,
+                    perSecond, perSecond / threads, perSecond / baseline);
+        }
+    }
+}
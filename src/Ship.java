@@ -1,6 +1,6 @@
-import java.awt.*;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Represents a ship in the Battleship game.
@@ -39,8 +39,10 @@ public class Ship {
      * @return True if coordinates hit this ship, false otherwise
      */
     public boolean isHit(int row, int col) {
-        List<Point> coordinates = getOccupiedCoordinates();
-        return coordinates.contains(new Point(row, col));
+        if (isHorizontal) {
+            return row == startRow && col >= startCol && col < startCol + size;
+        }
+        return col == startCol && row >= startRow && row < startRow + size;
     }
 
     /**
@@ -68,16 +70,16 @@ public class Ship {
 
     /**
      * Get al coordinates this ship occupies
-     * @return List of Point objects representing occupied coordinates
+     * @return List of Coordinate objects representing occupied coordinates
      */
-    public List<Point> getOccupiedCoordinates() {
-        List<Point> coordinates = new ArrayList<>();
+    public List<Coordinate> getOccupiedCoordinates() {
+        List<Coordinate> coordinates = new ArrayList<>();
 
         for (int i = 0; i < size; i++) {
             if (isHorizontal) {
-                coordinates.add(new Point(startRow, startCol + i));
+                coordinates.add(new Coordinate(startRow, startCol + i));
             } else {
-                coordinates.add(new Point(startRow + i, startCol));
+                coordinates.add(new Coordinate(startRow + i, startCol));
             }
         }
 
@@ -90,11 +92,10 @@ public class Ship {
      * @return True if ships overlap, false otherwise
      */
     public boolean overlaps(Ship other) {
-        List<Point> thisCoordinates = this.getOccupiedCoordinates();
-        List<Point> otherCoordinates = other.getOccupiedCoordinates();
-
-        for (Point point : thisCoordinates) {
-            if (otherCoordinates.contains(point)) {
+        for (int i = 0; i < size; i++) {
+            int row = isHorizontal ? startRow : startRow + i;
+            int col = isHorizontal ? startCol + i : startCol;
+            if (other.isHit(row, col)) {
                 return true;
             }
         }
@@ -102,6 +103,36 @@ public class Ship {
         return false;
     }
 
+    /**
+     * Move this ship to a new position and clear all hits, reusing its storage
+     * @param startRow New starting row position
+     * @param startCol New starting column position
+     * @param isHorizontal True if ship horizontal, false if vertical
+     */
+    public void reposition(int startRow, int startCol, boolean isHorizontal) {
+        this.startRow = startRow;
+        this.startCol = startCol;
+        this.isHorizontal = isHorizontal;
+        Arrays.fill(hitPositions, false);
+        this.sunk = false;
+    }
+
+    /**
+     * Get the last row this ship occupies
+     * @return End row position
+     */
+    public int getEndRow() {
+        return isHorizontal ? startRow : startRow + size - 1;
+    }
+
+    /**
+     * Get the last column this ship occupies
+     * @return End column position
+     */
+    public int getEndCol() {
+        return isHorizontal ? startCol + size - 1 : startCol;
+    }
+
     /**
      * Update the sunk status based on hit positions
      */
@@ -0,0 +1,83 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-memory histogram with equal-width buckets.
+ * Values past the last bucket are counted in an overflow bucket.
+ * Safe to record into from many threads without locking.
+ */
+public class StatsHistogram {
+    private final long bucketWidth;
+    private final LongAdder[] buckets;
+    private final LongAdder overflow;
+
+    /**
+     * Constructor for StatsHistogram
+     * @param bucketCount Number of regular buckets
+     * @param bucketWidth Width of each bucket; bucket i holds [i*width, (i+1)*width)
+     */
+    public StatsHistogram(int bucketCount, long bucketWidth) {
+        if (bucketCount < 1 || bucketWidth < 1) {
+            throw new IllegalArgumentException("Bucket count and width must be positive");
+        }
+        this.bucketWidth = bucketWidth;
+        this.buckets = new LongAdder[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new LongAdder();
+        }
+        this.overflow = new LongAdder();
+    }
+
+    /**
+     * Record a single value (negative values count in the first bucket)
+     * @param value Value to record
+     */
+    public void record(long value) {
+        long index = Math.max(0, value) / bucketWidth;
+        if (index < buckets.length) {
+            buckets[(int) index].increment();
+        } else {
+            overflow.increment();
+        }
+    }
+
+    /**
+     * Get the count in a bucket
+     * @param index Bucket index
+     * @return Number of values recorded in that bucket
+     */
+    public long getCount(int index) {
+        return buckets[index].sum();
+    }
+
+    /**
+     * Get the lowest value that falls into a bucket
+     * @param index Bucket index
+     * @return Lower bound of the bucket
+     */
+    public long getLowerBound(int index) {
+        return index * bucketWidth;
+    }
+
+    /**
+     * Clear all buckets
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        overflow.reset();
+    }
+
+    // Getter methods
+    public long getBucketWidth() {
+        return bucketWidth;
+    }
+
+    public int getBucketCount() {
+        return buckets.length;
+    }
+
+    public long getOverflowCount() {
+        return overflow.sum();
+    }
+}